@@ -0,0 +1,116 @@
+#!/usr/bin/env bash
+#
+# Measures time-to-first-request of the Stocker REST API.
+#
+# Starts the application repeatedly and records the time from launching the JVM until
+# GET /api/candlesticks?size=1 with a valid API key returns 200, which exercises the API key
+# filter, Spring Data REST and JPA. Reports each run and the median, and fails if the median
+# exceeds MAX_MS (when set).
+#
+# Usage:
+#   scripts/startup-benchmark.sh [jar|fast-startup] [runs]
+#
+#   jar           the plain executable jar built by ./mvnw package (default)
+#   fast-startup  the AOT-processed application with CDS archive built by ./mvnw -P fast-startup package
+#
+# Environment:
+#   PORT    HTTP port used for the benchmark (default 18080)
+#   MAX_MS  maximum allowed median time-to-first-request in milliseconds (optional)
+#   API_KEY API key sent with the probe request (default: first key of API_KEYS)
+#
+# The application needs the usual database and API key configuration (DB_* and API_KEYS),
+# either as environment variables or in the .env file in the project root.
+
+set -euo pipefail
+
+MODE="${1:-jar}"
+RUNS="${2:-5}"
+PORT="${PORT:-18080}"
+MAX_MS="${MAX_MS:-}"
+
+PROJECT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+cd "$PROJECT_DIR"
+
+JAR_NAME="$(ls target/*.jar 2>/dev/null | head -n 1 | xargs -r basename)"
+if [[ -z "$JAR_NAME" ]]; then
+    echo "No application jar found in target/, build it first." >&2
+    exit 1
+fi
+
+if [[ -z "${API_KEY:-}" ]]; then
+    KEYS="${API_KEYS:-}"
+    if [[ -z "$KEYS" && -f .env ]]; then
+        KEYS="$(grep -E '^API_KEYS=' .env | head -n 1 | cut -d= -f2-)"
+    fi
+    API_KEY="${KEYS%%,*}"
+fi
+if [[ -z "$API_KEY" ]]; then
+    echo "No API key found, set API_KEY or API_KEYS." >&2
+    exit 1
+fi
+
+case "$MODE" in
+    jar)
+        COMMAND=(java -jar "$PROJECT_DIR/target/$JAR_NAME")
+        ;;
+    fast-startup)
+        APPLICATION_DIR="$PROJECT_DIR/target/application"
+        if [[ ! -f "$APPLICATION_DIR/application.jsa" ]]; then
+            echo "No CDS archive found, build with ./mvnw -P fast-startup package first." >&2
+            exit 1
+        fi
+        COMMAND=(java -XX:SharedArchiveFile="$APPLICATION_DIR/application.jsa" -Dspring.aot.enabled=true
+                 -jar "$APPLICATION_DIR/$JAR_NAME")
+        ;;
+    *)
+        echo "Unknown mode: $MODE (expected jar or fast-startup)" >&2
+        exit 1
+        ;;
+esac
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+TIMES=()
+for run in $(seq 1 "$RUNS"); do
+    started="$(now_ms)"
+    "${COMMAND[@]}" --server.port="$PORT" > /dev/null 2>&1 &
+    pid=$!
+
+    # Poll until the server accepts connections (000 means no connection yet); the first response must be 200
+    while true; do
+        status="$(curl -s -o /dev/null -w '%{http_code}' -H "X-API-Key: $API_KEY" \
+            "http://localhost:$PORT/api/candlesticks?size=1" || true)"
+        if [[ "$status" != "000" ]]; then
+            break
+        fi
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "Application exited before serving a request." >&2
+            exit 1
+        fi
+        sleep 0.01
+    done
+    elapsed=$(( $(now_ms) - started ))
+
+    if [[ "$status" != "200" ]]; then
+        kill "$pid"
+        wait "$pid" 2>/dev/null || true
+        echo "First request returned HTTP $status instead of 200; check the database and API key configuration." >&2
+        exit 1
+    fi
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+
+    TIMES+=("$elapsed")
+    echo "run $run: ${elapsed} ms"
+done
+
+MEDIAN="$(printf '%s\n' "${TIMES[@]}" | sort -n | awk '{ t[NR] = $1 } END { print t[int((NR + 1) / 2)] }')"
+echo "mode: $MODE, runs: $RUNS, median time-to-first-request: ${MEDIAN} ms"
+
+if [[ -n "$MAX_MS" && "$MEDIAN" -gt "$MAX_MS" ]]; then
+    echo "Median ${MEDIAN} ms exceeds the limit of ${MAX_MS} ms." >&2
+    exit 1
+fi
@@ -0,0 +1,79 @@
+package com.joakimcolloz.stocker.api.config;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.MethodMetadata;
+
+import java.util.List;
+
+/**
+ * Defers initialization of non-essential beans until they are first used.
+ * <p>
+ * Beans declared in the packages listed by {@code app.startup.lazy-packages} (by default the springdoc
+ * OpenAPI and Swagger UI beans) are marked lazy, so they are created on the first documentation request
+ * instead of during startup. Everything else, including the API endpoints, security and JPA, is still
+ * initialized eagerly so the first API request is not slowed down.
+ * <p>
+ * springdoc annotates its configuration classes with {@code @Lazy(false)}, which keeps them eager under
+ * Spring Boot's global {@code spring.main.lazy-initialization}. This post-processor deliberately overrides
+ * that explicit flag for the listed packages, otherwise no springdoc bean would become lazy.
+ * {@link SmartInitializingSingleton} beans are left eager, as they expect to run once all singletons exist.
+ * <p>
+ * The lazy flags are recorded in the bean definitions during Spring AOT processing in the
+ * {@code fast-startup} build profile. In that build, {@code app.startup.lazy-packages} is therefore
+ * fixed at build time and changing it at runtime has no effect.
+ *
+ * @author Joakim Colloz
+ * @version 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+public class LazyInitializationConfig {
+
+    /**
+     * Registers the post-processor that marks beans from the configured packages as lazy.
+     * <p>
+     * Declared {@code static} so that it is created before any other bean definitions are processed.
+     *
+     * @param environment environment providing {@code app.startup.lazy-packages}
+     * @return the bean factory post-processor
+     */
+    @Bean
+    public static BeanFactoryPostProcessor lazyPackagesBeanFactoryPostProcessor(Environment environment) {
+        List<String> packages = List.of(environment.getProperty(
+                "app.startup.lazy-packages", String[].class, new String[]{"org.springdoc."}));
+
+        return beanFactory -> {
+            for (String beanName : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+                String declaringClass = declaringClassName(definition);
+                if (declaringClass == null || packages.stream().noneMatch(declaringClass::startsWith)) {
+                    continue;
+                }
+                Class<?> beanType = beanFactory.getType(beanName, false);
+                if (beanType != null && SmartInitializingSingleton.class.isAssignableFrom(beanType)) {
+                    continue;
+                }
+                definition.setLazyInit(true);
+            }
+        };
+    }
+
+    /**
+     * Returns the class declaring a bean: the configuration class for {@code @Bean} methods,
+     * otherwise the bean class itself.
+     */
+    private static String declaringClassName(BeanDefinition definition) {
+        if (definition instanceof AnnotatedBeanDefinition annotated) {
+            MethodMetadata factoryMethod = annotated.getFactoryMethodMetadata();
+            if (factoryMethod != null) {
+                return factoryMethod.getDeclaringClassName();
+            }
+        }
+        return definition.getBeanClassName();
+    }
+}
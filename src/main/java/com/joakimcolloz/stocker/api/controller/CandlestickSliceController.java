@@ -0,0 +1,154 @@
+package com.joakimcolloz.stocker.api.controller;
+
+import com.joakimcolloz.stocker.api.dao.CandlestickCountEstimator;
+import com.joakimcolloz.stocker.api.dao.CandlestickRepository;
+import com.joakimcolloz.stocker.api.entity.Candlestick;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.rest.webmvc.PersistentEntityResourceAssembler;
+import org.springframework.data.rest.webmvc.RepositoryRestController;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.SlicedModel;
+import org.springframework.hateoas.server.core.EmbeddedWrappers;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Count-free paging endpoints for {@link Candlestick} data.
+ * <p>
+ * The Spring Data REST collection resource runs a {@code count(*)} over the whole table for every page
+ * to fill in {@code page.totalElements}. The endpoints below return a {@link SlicedModel} instead: each
+ * slice fetches one extra row to decide whether a {@code next} link exists, and no count query is run.
+ * Only the count is removed: slices are still {@code LIMIT/OFFSET} queries, so the cost of a deep
+ * {@code page} still grows with its offset.
+ * Slices are always ordered by {@code id} last, so walking the {@code next} links visits every row once.
+ * <ul>
+ *   <li><code>/api/candlesticks/slice?page=0&amp;size=20</code></li>
+ *   <li><code>/api/candlesticks/slice/by-symbol?symbol=SYMBOL&amp;page=0&amp;size=20</code></li>
+ * </ul>
+ * Clients that need a total can opt in with {@code approximate-total=true}. The total is then returned
+ * in the {@value #APPROXIMATE_TOTAL_HEADER} header, taken from PostgreSQL table statistics or a cached
+ * per-symbol count (see {@link CandlestickCountEstimator}).
+ *
+ * @author Joakim Colloz
+ * @version 1.0
+ */
+@RepositoryRestController
+public class CandlestickSliceController {
+
+    /**
+     * Response header carrying the approximate total number of candlesticks.
+     */
+    public static final String APPROXIMATE_TOTAL_HEADER = "X-Approximate-Total-Count";
+
+    private final CandlestickRepository candlestickRepository;
+    private final CandlestickCountEstimator countEstimator;
+
+    /**
+     * Constructs the controller.
+     *
+     * @param candlestickRepository repository providing the slice queries
+     * @param countEstimator        source of approximate totals
+     */
+    public CandlestickSliceController(CandlestickRepository candlestickRepository,
+                                      CandlestickCountEstimator countEstimator) {
+        this.candlestickRepository = candlestickRepository;
+        this.countEstimator = countEstimator;
+    }
+
+    /**
+     * Returns a slice of all candlesticks without counting the table.
+     *
+     * @param pageable         the paging and sorting information
+     * @param approximateTotal whether to include the estimated table row count
+     * @param assembler        assembler turning entities into HAL resources
+     * @return the requested slice
+     */
+    @GetMapping("/candlesticks/slice")
+    public ResponseEntity<SlicedModel<Object>> getSlice(
+            Pageable pageable,
+            @RequestParam(name = "approximate-total", defaultValue = "false") boolean approximateTotal,
+            PersistentEntityResourceAssembler assembler) {
+        Slice<Candlestick> slice = candlestickRepository.findAllBy(withIdTieBreaker(pageable));
+        return toResponse(slice, assembler, approximateTotal ? countEstimator.estimateTotal() : null);
+    }
+
+    /**
+     * Returns a slice of candlesticks for one stock symbol without counting the matching rows.
+     *
+     * @param symbol           the stock symbol to filter by
+     * @param pageable         the paging and sorting information
+     * @param approximateTotal whether to include the cached row count for the symbol
+     * @param assembler        assembler turning entities into HAL resources
+     * @return the requested slice
+     */
+    @GetMapping("/candlesticks/slice/by-symbol")
+    public ResponseEntity<SlicedModel<Object>> getSliceBySymbol(
+            @RequestParam("symbol") String symbol,
+            Pageable pageable,
+            @RequestParam(name = "approximate-total", defaultValue = "false") boolean approximateTotal,
+            PersistentEntityResourceAssembler assembler) {
+        Slice<Candlestick> slice = candlestickRepository.findSliceBySymbol(symbol, withIdTieBreaker(pageable));
+        return toResponse(slice, assembler, approximateTotal ? countEstimator.countBySymbol(symbol) : null);
+    }
+
+    /**
+     * Builds the HAL response for a slice, with {@code self}, {@code prev} and {@code next} links
+     * pointing at the current request with an adjusted {@code page} parameter.
+     */
+    private ResponseEntity<SlicedModel<Object>> toResponse(Slice<Candlestick> slice,
+                                                           PersistentEntityResourceAssembler assembler,
+                                                           Long approximateTotal) {
+        List<Object> content = new ArrayList<>(slice.getNumberOfElements());
+        if (slice.hasContent()) {
+            slice.forEach(candlestick -> content.add(assembler.toModel(candlestick)));
+        } else {
+            // Keep "_embedded.candlesticks" in the response for empty slices, like Spring Data REST does
+            content.add(new EmbeddedWrappers(false).emptyCollectionOf(Candlestick.class));
+        }
+
+        List<Link> links = new ArrayList<>();
+        links.add(pageLink(slice.getNumber(), IanaLinkRelations.SELF.value()));
+        if (slice.hasPrevious()) {
+            links.add(pageLink(slice.getNumber() - 1, IanaLinkRelations.PREV.value()));
+        }
+        if (slice.hasNext()) {
+            links.add(pageLink(slice.getNumber() + 1, IanaLinkRelations.NEXT.value()));
+        }
+
+        SlicedModel<Object> model = SlicedModel.of(content,
+                new SlicedModel.SliceMetadata(slice.getSize(), slice.getNumber()), links);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (approximateTotal != null) {
+            response.header(APPROXIMATE_TOTAL_HEADER, String.valueOf(approximateTotal));
+        }
+        return response.body(model);
+    }
+
+    /**
+     * Appends {@code id} to the requested sort order, so that rows with equal sort keys (or an unsorted
+     * request) keep a stable order across the {@code LIMIT/OFFSET} queries of consecutive slices.
+     */
+    private static Pageable withIdTieBreaker(Pageable pageable) {
+        Sort sort = pageable.getSort();
+        if (sort.getOrderFor("id") == null) {
+            sort = sort.and(Sort.by("id"));
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+    }
+
+    private static Link pageLink(int page, String relation) {
+        return Link.of(ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("page", page)
+                .toUriString(), relation);
+    }
+}
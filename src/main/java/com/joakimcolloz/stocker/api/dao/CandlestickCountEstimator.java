@@ -0,0 +1,85 @@
+package com.joakimcolloz.stocker.api.dao;
+
+import com.joakimcolloz.stocker.api.entity.Candlestick;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Provides cheap approximate row counts for {@link Candlestick} data.
+ * <p>
+ * The total number of rows is read from the PostgreSQL planner statistics ({@code pg_class.reltuples}),
+ * which are refreshed by autovacuum and {@code ANALYZE}, instead of running {@code count(*)} over the
+ * whole table. Per-symbol counts are exact, but cached for the duration configured by
+ * {@code app.api.paging.count-cache-ttl} so repeated page requests for the same symbol count only once.
+ *
+ * @author Joakim Colloz
+ * @version 1.0
+ */
+@Component
+public class CandlestickCountEstimator {
+
+    private static final String ESTIMATE_SQL = "SELECT reltuples::bigint FROM pg_class WHERE oid = '"
+            + Candlestick.SCHEMA + "." + Candlestick.TABLE + "'::regclass";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CandlestickRepository candlestickRepository;
+    private final Duration countCacheTtl;
+    private final Map<String, CachedCount> symbolCounts = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs the estimator.
+     *
+     * @param jdbcTemplate          JDBC template used to read table statistics
+     * @param candlestickRepository repository used to count rows per symbol
+     * @param countCacheTtl         how long a per-symbol count is reused before it is recounted
+     */
+    public CandlestickCountEstimator(JdbcTemplate jdbcTemplate, CandlestickRepository candlestickRepository,
+                                     @Value("${app.api.paging.count-cache-ttl:PT5M}") Duration countCacheTtl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.candlestickRepository = candlestickRepository;
+        this.countCacheTtl = countCacheTtl;
+    }
+
+    /**
+     * Returns the approximate number of candlesticks in the table.
+     *
+     * @return the estimated row count, or 0 if the table has not been analyzed yet
+     */
+    public long estimateTotal() {
+        Long estimate = jdbcTemplate.queryForObject(ESTIMATE_SQL, Long.class);
+        return estimate == null ? 0 : Math.max(0, estimate);
+    }
+
+    /**
+     * Returns the number of candlesticks for the given symbol, counted at most once per cache period.
+     * <p>
+     * Unknown symbols are not cached, so the cache only grows with the number of existing symbols.
+     *
+     * @param symbol the stock symbol
+     * @return the (possibly cached) number of candlesticks with the given symbol
+     */
+    public long countBySymbol(String symbol) {
+        Instant now = Instant.now();
+        CachedCount cached = symbolCounts.get(symbol);
+        if (cached != null && cached.expiresAt().isAfter(now)) {
+            return cached.count();
+        }
+
+        long count = candlestickRepository.countBySymbol(symbol);
+        if (count > 0) {
+            symbolCounts.put(symbol, new CachedCount(count, now.plus(countCacheTtl)));
+        } else {
+            symbolCounts.remove(symbol);
+        }
+        return count;
+    }
+
+    private record CachedCount(long count, Instant expiresAt) {
+    }
+}
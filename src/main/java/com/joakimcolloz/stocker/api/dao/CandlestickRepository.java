@@ -1,24 +1,47 @@
 package com.joakimcolloz.stocker.api.dao;
 
 import com.joakimcolloz.stocker.api.entity.Candlestick;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RestResource;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
 /**
  * Repository interface for {@link Candlestick} entities.
  * <p>
  * Includes a custom query method to find candlesticks by stock symbol.
  * Exposes read-only REST endpoints via Spring Data REST
  * with custom configuration defined in {@link com.joakimcolloz.stocker.api.config.RestRepositoryConfig}.
+ * <p>
+ * All methods run in read-only transactions, and the queries backing the REST endpoints load their
+ * results as read-only entities. {@link #findBySymbol(String)} returns a symbol's whole history, so it
+ * also streams rows from the database in batches of {@value #READ_FETCH_SIZE}.
+ * <p>
+ * The {@link Slice} methods and {@link #countBySymbol(String)} are not exported by Spring Data REST;
+ * they back the count-free paging endpoints in
+ * {@link com.joakimcolloz.stocker.api.controller.CandlestickSliceController}.
  *
  * @author Joakim Colloz
  * @version 1.0
  */
+@Transactional(readOnly = true)
 public interface CandlestickRepository extends JpaRepository<Candlestick, Integer> {
 
+    /**
+     * JDBC fetch size used by unpaged read queries.
+     */
+    String READ_FETCH_SIZE = "500";
+
     /**
      * Retrieves all candlesticks matching the specified stock symbol.
      * <p>
@@ -29,5 +52,54 @@ public interface CandlestickRepository extends JpaRepository<Candlestick, Intege
      * @return a list of candlesticks with the given symbol
      */
     @RestResource(path = "by-symbol", rel = "by-symbol")
+    @QueryHints({
+            @QueryHint(name = HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HINT_FETCH_SIZE, value = READ_FETCH_SIZE)
+    })
     List<Candlestick> findBySymbol(@Param("symbol") String symbol);
+
+    /**
+     * Retrieves a page of candlesticks.
+     * <p>
+     * Backs the <code>/api/candlesticks</code> collection resource. Overridden only to apply
+     * the read-only query hint; the count query runs without it. No fetch size is set, as pages are
+     * capped at 1000 rows by Spring Data REST.
+     *
+     * @param pageable the paging and sorting information
+     * @return the requested page of candlesticks
+     */
+    @Override
+    @QueryHints(value = @QueryHint(name = HINT_READ_ONLY, value = "true"), forCounting = false)
+    Page<Candlestick> findAll(Pageable pageable);
+
+    /**
+     * Retrieves a slice of candlesticks without counting the total number of rows.
+     *
+     * @param pageable the paging and sorting information
+     * @return the requested slice of candlesticks
+     */
+    @RestResource(exported = false)
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    Slice<Candlestick> findAllBy(Pageable pageable);
+
+    /**
+     * Retrieves a slice of candlesticks matching the specified stock symbol without counting
+     * the total number of matching rows.
+     *
+     * @param symbol   the stock symbol to filter by
+     * @param pageable the paging and sorting information
+     * @return the requested slice of candlesticks with the given symbol
+     */
+    @RestResource(exported = false)
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    Slice<Candlestick> findSliceBySymbol(String symbol, Pageable pageable);
+
+    /**
+     * Counts the candlesticks matching the specified stock symbol.
+     *
+     * @param symbol the stock symbol to filter by
+     * @return the number of candlesticks with the given symbol
+     */
+    @RestResource(exported = false)
+    long countBySymbol(String symbol);
 }
@@ -6,6 +6,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.Immutable;
 
 import java.time.Instant;
 import java.time.ZoneId;
@@ -16,13 +17,28 @@ import java.time.format.DateTimeFormatter;
  * <p>
  * Maps to the {@code stock_prices_1day} table in the {@code stock_prices_schema} schema.
  * Each record contains open, high, low, close prices, volume, timestamp, and symbol.
+ * <p>
+ * The API never modifies stock data, so the entity is mapped as {@link Immutable}: Hibernate skips
+ * dirty checking for it and loaded instances carry no state snapshot. New records can still be
+ * persisted through the constructor, e.g. when seeding test data.
  *
  * @author Joakim Colloz
  * @version 1.0
  */
 @Entity
-@Table(name = "stock_prices_1day", schema = "stock_prices_schema")
+@Immutable
+@Table(name = Candlestick.TABLE, schema = Candlestick.SCHEMA)
 public class Candlestick {
+    /**
+     * Database schema containing the candlestick table.
+     */
+    public static final String SCHEMA = "stock_prices_schema";
+
+    /**
+     * Name of the candlestick table.
+     */
+    public static final String TABLE = "stock_prices_1day";
+
     /**
      * Primary key — unique identifier for each candlestick record.
      */
@@ -100,71 +116,39 @@ public class Candlestick {
         this.symbol = symbol;
     }
 
-    // Getters and setters
+    // Getters
     public int getId() {
         return id;
     }
 
-    public void setId(int id) {
-        this.id = id;
-    }
-
     public double getOpen() {
         return open;
     }
 
-    public void setOpen(double open) {
-        this.open = open;
-    }
-
     public double getClose() {
         return close;
     }
 
-    public void setClose(double close) {
-        this.close = close;
-    }
-
     public double getLow() {
         return low;
     }
 
-    public void setLow(double low) {
-        this.low = low;
-    }
-
     public double getHigh() {
         return high;
     }
 
-    public void setHigh(double high) {
-        this.high = high;
-    }
-
     public long getVolume() {
         return volume;
     }
 
-    public void setVolume(long volume) {
-        this.volume = volume;
-    }
-
     public long getTimestamp() {
         return timestamp;
     }
 
-    public void setTimestamp(long timestamp) {
-        this.timestamp = timestamp;
-    }
-
     public String getSymbol() {
         return symbol;
     }
 
-    public void setSymbol(String symbol) {
-        this.symbol = symbol;
-    }
-
     /**
      * Returns the timestamp formatted as a human-readable date/time string
      * in the pattern {@code yyyy-MM-dd HH:mm:ss} using the system default timezone.
@@ -3,29 +3,49 @@ package com.joakimcolloz.stocker.api;
 import com.joakimcolloz.stocker.api.dao.CandlestickRepository;
 import com.joakimcolloz.stocker.api.entity.Candlestick;
 
+import com.jayway.jsonpath.JsonPath;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.Nested;
 
+import org.mockito.ArgumentCaptor;
+
 import org.springframework.beans.factory.annotation.Autowired;
 
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import org.springframework.jdbc.core.JdbcTemplate;
+
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 
 import org.testcontainers.containers.PostgreSQLContainer;
 
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 
@@ -39,6 +59,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * <ul>
  *     <li>Authentication tests for API key security</li>
  *     <li>Functional tests for candlestick retrieval and symbol-based filtering</li>
+ *     <li>Slice paging tests for the count-free {@code /api/candlesticks/slice} endpoints</li>
+ *     <li>Documentation tests verifying that the lazily initialized OpenAPI and Swagger UI endpoints answer</li>
+ *     <li>Read path tests verifying that repository queries run in read-only transactions</li>
  * </ul>
  *
  * <p>Dynamic environment properties are configured using {@link DynamicPropertySource}.
@@ -81,6 +104,15 @@ public class CandlestickApiIntegrationTest {
     @Autowired
     private CandlestickRepository candlestickRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Spy on the transaction manager, used to inspect the transactions opened by the repository.
+     */
+    @MockitoSpyBean
+    private PlatformTransactionManager transactionManager;
+
     /**
      * Clears and inserts test candlestick data into the database before each test.
      */
@@ -152,4 +184,129 @@ public class CandlestickApiIntegrationTest {
                     .andExpect(jsonPath("$._embedded.candlesticks[0].symbol").value("BOL.ST"));
         }
     }
+
+    /**
+     * Tests for count-free slice paging and opt-in approximate totals.
+     */
+    @Nested
+    @DisplayName("Slice Paging Tests")
+    class SlicePagingTests {
+        @Test
+        @DisplayName("Should return first slice with next link and no total")
+        void testGetFirstSlice() throws Exception {
+            mockMvc.perform(get("/api/candlesticks/slice")
+                    .param("size", "1")
+                    .header("X-API-Key", "test-api-key"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$._embedded.candlesticks.length()").value(1))
+                    .andExpect(jsonPath("$._embedded.candlesticks[0].symbol").value("BOL.ST"))
+                    .andExpect(jsonPath("$.page.number").value(0))
+                    .andExpect(jsonPath("$._links.next.href").exists())
+                    .andExpect(jsonPath("$._links.prev").doesNotExist())
+                    .andExpect(header().doesNotExist("X-Approximate-Total-Count"));
+        }
+
+        @Test
+        @DisplayName("Should return last slice by symbol with cached total")
+        void testGetLastSliceBySymbolWithApproximateTotal() throws Exception {
+            mockMvc.perform(get("/api/candlesticks/slice/by-symbol")
+                    .param("symbol", "BOL.ST")
+                    .param("size", "1")
+                    .param("page", "1")
+                    .param("approximate-total", "true")
+                    .header("X-API-Key", "test-api-key"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$._embedded.candlesticks.length()").value(1))
+                    .andExpect(jsonPath("$._links.prev.href").exists())
+                    .andExpect(jsonPath("$._links.next").doesNotExist())
+                    .andExpect(header().string("X-Approximate-Total-Count", "2"));
+        }
+
+        @Test
+        @DisplayName("Should return approximate table total from statistics after ANALYZE")
+        void testGetSliceWithApproximateTotal() throws Exception {
+            // ANALYZE samples every row of a small table, so reltuples is exact here
+            jdbcTemplate.execute("ANALYZE " + Candlestick.SCHEMA + "." + Candlestick.TABLE);
+
+            mockMvc.perform(get("/api/candlesticks/slice")
+                    .param("approximate-total", "true")
+                    .header("X-API-Key", "test-api-key"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("X-Approximate-Total-Count", "2"));
+        }
+
+        @Test
+        @DisplayName("Should return every candlestick exactly once when following next links")
+        void testWalkAllSlices() throws Exception {
+            for (int i = 0; i < 5; i++) {
+                candlestickRepository.save(new Candlestick(50, 51, 49, 52, 1000,
+                        1753210800L, "ABB.ST"));
+            }
+            long expected = candlestickRepository.count();
+
+            List<String> rows = new ArrayList<>();
+            String next = "/api/candlesticks/slice?size=2";
+            for (int page = 0; next != null && page <= expected; page++) {
+                String body = mockMvc.perform(get(URI.create(next))
+                        .header("X-API-Key", "test-api-key"))
+                        .andExpect(status().isOk())
+                        .andReturn().getResponse().getContentAsString();
+
+                rows.addAll(JsonPath.read(body, "$._embedded.candlesticks[*]._links.self.href"));
+                Map<String, Object> links = JsonPath.read(body, "$._links");
+                next = links.containsKey("next") ? JsonPath.read(body, "$._links.next.href") : null;
+            }
+
+            assertEquals(expected, rows.size());
+            assertEquals(expected, new HashSet<>(rows).size());
+        }
+
+        @Test
+        @DisplayName("Should return 401 for slice endpoint without API key")
+        void testSliceUnauthorizedWithoutApiKey() throws Exception {
+            mockMvc.perform(get("/api/candlesticks/slice"))
+                    .andExpect(status().isUnauthorized());
+        }
+    }
+
+    /**
+     * Tests for the OpenAPI documentation endpoints, whose beans are initialized lazily.
+     */
+    @Nested
+    @DisplayName("API Documentation Tests")
+    class ApiDocumentationTests {
+        @Test
+        @DisplayName("Should serve OpenAPI docs without API key")
+        void testGetApiDocs() throws Exception {
+            mockMvc.perform(get("/api-docs"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.info.title").value("Stocker REST API"));
+        }
+
+        @Test
+        @DisplayName("Should redirect to Swagger UI without API key")
+        void testGetSwaggerUi() throws Exception {
+            mockMvc.perform(get("/swagger-ui.html"))
+                    .andExpect(status().is3xxRedirection());
+        }
+    }
+
+    /**
+     * Tests for the read-optimized query path.
+     */
+    @Nested
+    @DisplayName("Read Path Tests")
+    class ReadPathTests {
+        @Test
+        @DisplayName("Should query candlesticks by symbol in a read-only transaction")
+        void testFindBySymbolUsesReadOnlyTransaction() {
+            clearInvocations(transactionManager);
+
+            candlestickRepository.findBySymbol("BOL.ST");
+
+            ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+            verify(transactionManager).getTransaction(definition.capture());
+            assertTrue(definition.getValue().isReadOnly());
+        }
+    }
 }
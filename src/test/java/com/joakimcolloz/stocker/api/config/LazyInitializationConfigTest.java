@@ -0,0 +1,62 @@
+package com.joakimcolloz.stocker.api.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link LazyInitializationConfig}.
+ * <p>
+ * Runs in its own application context, without any documentation request, so that it can check
+ * that springdoc beans are still uncreated after the context refresh.
+ */
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("test")
+@DisplayName("Lazy Initialization Config Tests")
+public class LazyInitializationConfigTest {
+    /**
+     * PostgreSQL container managed by Testcontainers, initialized with the same schema as the integration tests.
+     */
+    @Container
+    public static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>("postgres:13-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test")
+            .withInitScript("testdb.sql");
+
+    /**
+     * Dynamically sets Spring datasource properties using the Testcontainer PostgreSQL instance.
+     *
+     * @param registry property registry for the Spring test context
+     */
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+    }
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Test
+    @DisplayName("Should mark springdoc OpenAPI resource lazy and not create it at startup")
+    void testOpenApiResourceIsLazy() {
+        assertTrue(beanFactory.getBeanDefinition("openApiResource").isLazyInit());
+        assertFalse(beanFactory.containsSingleton("openApiResource"));
+    }
+}
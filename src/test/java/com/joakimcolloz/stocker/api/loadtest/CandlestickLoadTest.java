@@ -0,0 +1,165 @@
+package com.joakimcolloz.stocker.api.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Load test of the {@code /api/candlesticks} REST API against a synthetic, production-sized dataset.
+ * <p>
+ * Fills a Testcontainers PostgreSQL instance using {@link SyntheticCandlestickGenerator}, starts the
+ * application on a random port and drives the collection, count-free slice, {@code by-symbol} and
+ * authentication failure paths with {@link LoadDriver} at each configured concurrency level. Throughput
+ * and p50/p95/p99 latency per scenario are logged and written to {@code target/load-test-report.txt}.
+ *
+ * <p>Tagged {@code load} and excluded from the regular build; run with {@code ./mvnw -P load-test test}.
+ * Dataset size and load shape are configurable through system properties:
+ * <ul>
+ *     <li>{@code loadtest.symbols} — number of symbols (default 500)</li>
+ *     <li>{@code loadtest.days} — trading days of history per symbol (default 2520, about ten years)</li>
+ *     <li>{@code loadtest.seed} — seed for data generation and request sequences (default 42)</li>
+ *     <li>{@code loadtest.concurrency} — comma-separated concurrency levels (default {@code 1,8,32})</li>
+ *     <li>{@code loadtest.warmup} — unmeasured requests per worker (default 20)</li>
+ *     <li>{@code loadtest.requests} — measured requests per worker (default 200)</li>
+ *     <li>{@code loadtest.page-size} — page size for collection requests (default 20)</li>
+ * </ul>
+ *
+ * @see SyntheticCandlestickGenerator
+ * @see LoadDriver
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers
+@ActiveProfiles({"test", "loadtest"})
+@DisplayName("Candlestick REST API Load Test")
+public class CandlestickLoadTest {
+    private static final Logger logger = LoggerFactory.getLogger(CandlestickLoadTest.class);
+
+    private static final String API_KEY = "test-api-key";
+    private static final Path REPORT_FILE = Path.of("target", "load-test-report.txt");
+
+    private static final int SYMBOLS = Integer.getInteger("loadtest.symbols", 500);
+    private static final int DAYS = Integer.getInteger("loadtest.days", 2520);
+    private static final long SEED = Long.getLong("loadtest.seed", 42L);
+    private static final int WARMUP = Integer.getInteger("loadtest.warmup", 20);
+    private static final int REQUESTS = Integer.getInteger("loadtest.requests", 200);
+    private static final int PAGE_SIZE = Integer.getInteger("loadtest.page-size", 20);
+    private static final int[] CONCURRENCY = Arrays.stream(
+                    System.getProperty("loadtest.concurrency", "1,8,32").split(","))
+            .map(String::trim)
+            .mapToInt(Integer::parseInt)
+            .toArray();
+
+    /**
+     * PostgreSQL container managed by Testcontainers, initialized with the same schema as the integration tests.
+     */
+    @Container
+    public static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>("postgres:13-alpine")
+            .withDatabaseName("loadtestdb")
+            .withUsername("test")
+            .withPassword("test")
+            .withInitScript("testdb.sql");
+
+    /**
+     * Dynamically sets Spring datasource properties using the Testcontainer PostgreSQL instance.
+     *
+     * @param registry property registry for the Spring test context
+     */
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final SyntheticCandlestickGenerator generator = new SyntheticCandlestickGenerator(SYMBOLS, DAYS, SEED);
+
+    @Test
+    @DisplayName("Should report throughput and latency percentiles per endpoint")
+    void measureEndpoints() throws Exception {
+        generator.populate(dataSource);
+
+        LoadDriver driver = new LoadDriver(URI.create("http://localhost:" + port), SEED);
+        List<String> symbols = generator.symbols();
+        long pages = Math.max(1, generator.rowCount() / PAGE_SIZE);
+
+        List<LoadDriver.Scenario> scenarios = List.of(
+                new LoadDriver.Scenario("collection",
+                        random -> "/api/candlesticks?size=" + PAGE_SIZE + "&page=" + random.nextLong(pages),
+                        API_KEY, 200),
+                new LoadDriver.Scenario("collection-slice",
+                        random -> "/api/candlesticks/slice?size=" + PAGE_SIZE + "&page=" + random.nextLong(pages),
+                        API_KEY, 200),
+                new LoadDriver.Scenario("by-symbol",
+                        random -> "/api/candlesticks/search/by-symbol?symbol="
+                                + symbols.get(random.nextInt(symbols.size())),
+                        API_KEY, 200),
+                new LoadDriver.Scenario("auth-missing-key",
+                        random -> "/api/candlesticks", null, 401),
+                new LoadDriver.Scenario("auth-invalid-key",
+                        random -> "/api/candlesticks", "invalid-key", 401));
+
+        List<LatencyStats> results = new ArrayList<>();
+        for (LoadDriver.Scenario scenario : scenarios) {
+            for (int concurrency : CONCURRENCY) {
+                LatencyStats stats = driver.run(scenario, concurrency, WARMUP, REQUESTS);
+                logger.info("{}", stats);
+                results.add(stats);
+            }
+        }
+
+        writeReport(results);
+
+        for (LatencyStats stats : results) {
+            assertEquals(0, stats.errors(), "Unexpected responses in scenario " + stats.scenario());
+        }
+    }
+
+    /**
+     * Writes the results as a fixed-width table, prefixed with the dataset and load configuration.
+     */
+    private void writeReport(List<LatencyStats> results) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("dataset: %d symbols x %d days = %d rows, seed %d",
+                SYMBOLS, DAYS, generator.rowCount(), SEED));
+        lines.add(String.format("load: %d warmup + %d measured requests per worker, page size %d",
+                WARMUP, REQUESTS, PAGE_SIZE));
+        lines.add("");
+        lines.add(LatencyStats.HEADER);
+        results.forEach(stats -> lines.add(stats.toString()));
+
+        Files.createDirectories(REPORT_FILE.getParent());
+        Files.write(REPORT_FILE, lines);
+        logger.info("Load test report:\n{}", String.join("\n", lines));
+    }
+}
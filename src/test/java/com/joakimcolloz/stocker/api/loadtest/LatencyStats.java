@@ -0,0 +1,76 @@
+package com.joakimcolloz.stocker.api.loadtest;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Summary of one load-test scenario: throughput and latency percentiles of a single endpoint
+ * at a fixed concurrency level.
+ *
+ * @param scenario    name of the scenario (endpoint) that was exercised
+ * @param concurrency number of concurrent clients
+ * @param requests    number of completed requests
+ * @param errors      number of requests that failed or returned an unexpected status
+ * @param throughput  completed requests per second
+ * @param p50Millis   median latency in milliseconds
+ * @param p95Millis   95th percentile latency in milliseconds
+ * @param p99Millis   99th percentile latency in milliseconds
+ * @param maxMillis   maximum latency in milliseconds
+ *
+ * @author Joakim Colloz
+ * @version 1.0
+ */
+public record LatencyStats(String scenario, int concurrency, int requests, int errors, double throughput,
+                           double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+
+    /**
+     * Header line matching the column layout of {@link #toString()}.
+     */
+    public static final String HEADER = String.format(Locale.ROOT, "%-24s %5s %8s %6s %10s %9s %9s %9s %9s",
+            "scenario", "conc", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+
+    /**
+     * Computes statistics from raw per-request latencies.
+     *
+     * @param scenario       name of the scenario
+     * @param concurrency    number of concurrent clients
+     * @param latenciesNanos latency of each completed request in nanoseconds (sorted in place)
+     * @param errors         number of failed requests
+     * @param elapsedNanos   wall-clock duration of the measured phase in nanoseconds
+     * @return the computed statistics
+     */
+    public static LatencyStats of(String scenario, int concurrency, long[] latenciesNanos,
+                                  int errors, long elapsedNanos) {
+        Arrays.sort(latenciesNanos);
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        return new LatencyStats(scenario, concurrency, latenciesNanos.length, errors,
+                seconds > 0 ? latenciesNanos.length / seconds : 0,
+                percentile(latenciesNanos, 50), percentile(latenciesNanos, 95), percentile(latenciesNanos, 99),
+                latenciesNanos.length > 0 ? toMillis(latenciesNanos[latenciesNanos.length - 1]) : 0);
+    }
+
+    /**
+     * Returns the nearest-rank percentile of a sorted latency array in milliseconds.
+     *
+     * @param sortedNanos sorted latencies in nanoseconds
+     * @param percentile  percentile between 0 and 100
+     * @return latency in milliseconds, or 0 if there are no samples
+     */
+    static double percentile(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedNanos.length);
+        return toMillis(sortedNanos[Math.max(0, rank - 1)]);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%-24s %5d %8d %6d %10.1f %9.2f %9.2f %9.2f %9.2f",
+                scenario, concurrency, requests, errors, throughput, p50Millis, p95Millis, p99Millis, maxMillis);
+    }
+}
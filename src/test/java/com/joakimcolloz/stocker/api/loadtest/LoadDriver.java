@@ -0,0 +1,162 @@
+package com.joakimcolloz.stocker.api.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import static com.joakimcolloz.stocker.api.security.SecurityConstants.API_KEY_HEADER;
+
+/**
+ * Scripted closed-loop HTTP load driver.
+ * <p>
+ * Each worker thread sends requests back-to-back and records the latency of every response.
+ * Request targets are chosen from a per-worker {@link Random} seeded from the driver seed,
+ * so repeated runs send the same request sequence.
+ *
+ * @author Joakim Colloz
+ * @version 1.0
+ */
+public class LoadDriver {
+
+    /**
+     * A named request script and the HTTP status it is expected to return.
+     *
+     * @param name           name reported in the results
+     * @param pathAndQuery   builds the request path (and query string) from the worker's random source
+     * @param apiKey         value of the API key header, or {@code null} to omit it
+     * @param expectedStatus HTTP status counted as a successful response
+     */
+    public record Scenario(String name, Function<Random, String> pathAndQuery, String apiKey, int expectedStatus) {
+    }
+
+    private final HttpClient httpClient;
+    private final URI baseUri;
+    private final long seed;
+
+    /**
+     * Constructs a driver sending requests to the given base URI.
+     *
+     * @param baseUri base URI of the running application, e.g. {@code http://localhost:8080}
+     * @param seed    seed for the per-worker request sequences
+     */
+    public LoadDriver(URI baseUri, long seed) {
+        this.baseUri = baseUri;
+        this.seed = seed;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    /**
+     * Runs a scenario at the given concurrency level.
+     * <p>
+     * Every worker first sends {@code warmupRequests} unmeasured requests, then all workers start
+     * the measured phase together and send {@code requestsPerWorker} requests each.
+     *
+     * @param scenario          the scenario to run
+     * @param concurrency       number of concurrent workers
+     * @param warmupRequests    unmeasured requests per worker
+     * @param requestsPerWorker measured requests per worker
+     * @return throughput and latency statistics for the measured phase
+     * @throws InterruptedException if interrupted while waiting for the workers
+     */
+    public LatencyStats run(Scenario scenario, int concurrency, int warmupRequests, int requestsPerWorker)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        CountDownLatch ready = new CountDownLatch(concurrency);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<WorkerResult>> futures = new ArrayList<>(concurrency);
+
+        try {
+            for (int worker = 0; worker < concurrency; worker++) {
+                Random random = new Random(seed * 31 + worker);
+                futures.add(executor.submit(() -> {
+                    try {
+                        for (int i = 0; i < warmupRequests; i++) {
+                            send(scenario, random);
+                        }
+                    } finally {
+                        // Release the main thread even if warmup fails; the failure surfaces from the future
+                        ready.countDown();
+                    }
+                    start.await();
+                    return measure(scenario, random, requestsPerWorker);
+                }));
+            }
+
+            ready.await();
+            long started = System.nanoTime();
+            start.countDown();
+
+            long[] latencies = new long[0];
+            int errors = 0;
+            for (Future<WorkerResult> future : futures) {
+                WorkerResult result = future.get();
+                int offset = latencies.length;
+                latencies = Arrays.copyOf(latencies, offset + result.latencies().length);
+                System.arraycopy(result.latencies(), 0, latencies, offset, result.latencies().length);
+                errors += result.errors();
+            }
+            return LatencyStats.of(scenario.name(), concurrency, latencies, errors, System.nanoTime() - started);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Load worker failed for scenario " + scenario.name(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private WorkerResult measure(Scenario scenario, Random random, int requests) throws InterruptedException {
+        long[] latencies = new long[requests];
+        int completed = 0;
+        int errors = 0;
+        for (int i = 0; i < requests; i++) {
+            long started = System.nanoTime();
+            boolean ok = send(scenario, random);
+            long latency = System.nanoTime() - started;
+            if (ok) {
+                latencies[completed++] = latency;
+            } else {
+                errors++;
+            }
+        }
+        return new WorkerResult(Arrays.copyOf(latencies, completed), errors);
+    }
+
+    /**
+     * Sends a single request, draining the body so the measured latency covers the full response.
+     *
+     * @return true if the response had the expected status
+     */
+    private boolean send(Scenario scenario, Random random) throws InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(baseUri.resolve(scenario.pathAndQuery().apply(random)))
+                .timeout(Duration.ofSeconds(60))
+                .GET();
+        if (scenario.apiKey() != null) {
+            request.header(API_KEY_HEADER, scenario.apiKey());
+        }
+
+        try {
+            HttpResponse<Void> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() == scenario.expectedStatus();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private record WorkerResult(long[] latencies, int errors) {
+    }
+}
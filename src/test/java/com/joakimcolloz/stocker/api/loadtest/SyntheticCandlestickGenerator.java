@@ -0,0 +1,193 @@
+package com.joakimcolloz.stocker.api.loadtest;
+
+import com.joakimcolloz.stocker.api.entity.Candlestick;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Deterministic generator of synthetic OHLCV data for the {@code stock_prices_1day} table.
+ * <p>
+ * Each symbol follows its own geometric random walk seeded from the base seed and the symbol index,
+ * so the same configuration always produces exactly the same rows, regardless of insertion order.
+ * Only weekdays are generated, starting at {@link #START_EPOCH_SECONDS}.
+ *
+ * <p>Rows are streamed into PostgreSQL using {@code COPY ... FROM STDIN}, which keeps multi-million
+ * row datasets loadable in seconds rather than minutes. The table statistics are refreshed with
+ * {@code ANALYZE} once loading is complete.
+ *
+ * @author Joakim Colloz
+ * @version 1.0
+ */
+public class SyntheticCandlestickGenerator {
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticCandlestickGenerator.class);
+
+    /**
+     * Fully qualified name of the table the generator writes to.
+     */
+    public static final String TABLE = Candlestick.SCHEMA + "." + Candlestick.TABLE;
+
+    /**
+     * First generated trading day (2000-01-03 09:00 UTC) as Unix epoch seconds.
+     */
+    public static final long START_EPOCH_SECONDS = 946890000L;
+
+    private static final String COPY_SQL = "COPY " + TABLE
+            + " (open, close, low, high, volume, timestamp, symbol) FROM STDIN WITH (FORMAT csv)";
+
+    private final int symbolCount;
+    private final int tradingDays;
+    private final long seed;
+
+    /**
+     * Constructs a generator for the given dataset dimensions.
+     *
+     * @param symbolCount number of distinct stock symbols to generate
+     * @param tradingDays number of trading days of history per symbol
+     * @param seed        base seed for the random walks
+     */
+    public SyntheticCandlestickGenerator(int symbolCount, int tradingDays, long seed) {
+        if (symbolCount <= 0 || tradingDays <= 0) {
+            throw new IllegalArgumentException("symbolCount and tradingDays must be positive");
+        }
+        this.symbolCount = symbolCount;
+        this.tradingDays = tradingDays;
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the stock symbol for the given index, e.g. {@code "SYN00042.ST"}.
+     *
+     * @param index zero-based symbol index
+     * @return the symbol name
+     */
+    public static String symbol(int index) {
+        return String.format(Locale.ROOT, "SYN%05d.ST", index);
+    }
+
+    /**
+     * Returns all symbols produced by this generator.
+     *
+     * @return list of symbols in index order
+     */
+    public List<String> symbols() {
+        List<String> symbols = new ArrayList<>(symbolCount);
+        for (int i = 0; i < symbolCount; i++) {
+            symbols.add(symbol(i));
+        }
+        return symbols;
+    }
+
+    /**
+     * Returns the total number of rows this generator produces.
+     *
+     * @return symbol count multiplied by trading days
+     */
+    public long rowCount() {
+        return (long) symbolCount * tradingDays;
+    }
+
+    /**
+     * Truncates the target table and fills it with the generated dataset.
+     *
+     * @param dataSource data source pointing at the PostgreSQL database
+     * @return number of rows inserted
+     * @throws SQLException if truncating, copying or analyzing fails
+     */
+    public long populate(DataSource dataSource) throws SQLException {
+        long started = System.nanoTime();
+        long rows = 0;
+
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("TRUNCATE TABLE " + TABLE + " RESTART IDENTITY");
+            }
+
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            CopyIn copyIn = pgConnection.getCopyAPI().copyIn(COPY_SQL);
+            try {
+                StringBuilder buffer = new StringBuilder(tradingDays * 64);
+                for (int i = 0; i < symbolCount; i++) {
+                    buffer.setLength(0);
+                    rows += appendSymbolHistory(i, buffer);
+                    byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+                    copyIn.writeToCopy(bytes, 0, bytes.length);
+                }
+                copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+
+            // Refresh planner statistics so query plans match a production-sized table
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE " + TABLE);
+            }
+        }
+
+        logger.info("Generated {} candlesticks ({} symbols x {} days) in {} ms",
+                rows, symbolCount, tradingDays, (System.nanoTime() - started) / 1_000_000);
+        return rows;
+    }
+
+    /**
+     * Appends the CSV rows of one symbol's full history to the buffer.
+     *
+     * @param symbolIndex zero-based symbol index
+     * @param buffer      buffer receiving CSV lines
+     * @return number of rows appended
+     */
+    int appendSymbolHistory(int symbolIndex, StringBuilder buffer) {
+        Random random = new Random(seed * 31 + symbolIndex);
+        String symbol = symbol(symbolIndex);
+        double price = 10 + random.nextDouble() * 490;
+        double volatility = 0.005 + random.nextDouble() * 0.025;
+        long baseVolume = 10_000 + random.nextInt(5_000_000);
+
+        ZonedDateTime day = Instant.ofEpochSecond(START_EPOCH_SECONDS).atZone(ZoneOffset.UTC);
+        for (int generated = 0; generated < tradingDays; day = day.plusDays(1)) {
+            DayOfWeek dayOfWeek = day.getDayOfWeek();
+            if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
+                continue;
+            }
+
+            double open = price;
+            double close = Math.max(0.01, open * (1 + random.nextGaussian() * volatility));
+            double high = Math.max(open, close) * (1 + Math.abs(random.nextGaussian()) * volatility / 2);
+            double low = Math.min(open, close) * (1 - Math.abs(random.nextGaussian()) * volatility / 2);
+            long volume = (long) (baseVolume * Math.exp(random.nextGaussian() * 0.5));
+
+            buffer.append(round(open)).append(',')
+                    .append(round(close)).append(',')
+                    .append(round(low)).append(',')
+                    .append(round(high)).append(',')
+                    .append(volume).append(',')
+                    .append(day.toEpochSecond()).append(',')
+                    .append(symbol).append('\n');
+
+            price = close;
+            generated++;
+        }
+        return tradingDays;
+    }
+
+    private static double round(double price) {
+        return Math.round(price * 100) / 100.0;
+    }
+}